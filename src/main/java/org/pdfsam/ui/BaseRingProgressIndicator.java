@@ -0,0 +1,116 @@
+/* 
+ * Copyright (c) 2014, Andrea Vacondio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package org.pdfsam.ui;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.css.StyleableDoubleProperty;
+import javafx.css.StyleableProperty;
+
+import com.sun.javafx.css.converters.SizeConverter;
+
+/**
+ * Base class for the progress indicator controls represented by rings with a configurable thickness
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+abstract class BaseRingProgressIndicator extends ProgressCircleIndicator {
+    private final double defaultRingWidth;
+
+    /**
+     * thickness of the ring indicator.
+     */
+    private final DoubleProperty ringWidth;
+
+    BaseRingProgressIndicator(double defaultRingWidth) {
+        this.defaultRingWidth = defaultRingWidth;
+        this.ringWidth = new StyleableDoubleProperty(defaultRingWidth) {
+            @Override
+            public Object getBean() {
+                return BaseRingProgressIndicator.this;
+            }
+
+            @Override
+            public String getName() {
+                return "ringWidth";
+            }
+
+            @Override
+            public CssMetaData<BaseRingProgressIndicator, Number> getCssMetaData() {
+                return StyleableProperties.RING_WIDTH;
+            }
+        };
+    }
+
+    public final void setRingWidth(int value) {
+        ringWidthProperty().set(value);
+    }
+
+    public final DoubleProperty ringWidthProperty() {
+        return ringWidth;
+    }
+
+    public final double getRingWidth() {
+        return ringWidthProperty().get();
+    }
+
+    private static class StyleableProperties {
+        private static final CssMetaData<BaseRingProgressIndicator, Number> RING_WIDTH = new CssMetaData<BaseRingProgressIndicator, Number>(
+                "-fx-ring-width", SizeConverter.getInstance(), 22) {
+
+            @Override
+            public boolean isSettable(BaseRingProgressIndicator n) {
+                return n.ringWidth == null || !n.ringWidth.isBound();
+            }
+
+            @Override
+            public StyleableProperty<Number> getStyleableProperty(BaseRingProgressIndicator n) {
+                return (StyleableProperty<Number>) n.ringWidth;
+            }
+
+            @Override
+            public Number getInitialValue(BaseRingProgressIndicator n) {
+                return n.defaultRingWidth;
+            }
+        };
+
+        public static final List<CssMetaData<? extends Styleable, ?>> STYLEABLES;
+        static {
+            final List<CssMetaData<? extends Styleable, ?>> styleables = new ArrayList<>(
+                    ProgressCircleIndicator.getClassCssMetaData());
+            styleables.add(RING_WIDTH);
+            STYLEABLES = Collections.unmodifiableList(styleables);
+        }
+    }
+
+    /**
+     * @return The CssMetaData associated with this class, which may include the CssMetaData of its super classes.
+     */
+    public static List<CssMetaData<? extends Styleable, ?>> getClassCssMetaData() {
+        return StyleableProperties.STYLEABLES;
+    }
+
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getControlCssMetaData() {
+        return StyleableProperties.STYLEABLES;
+    }
+}
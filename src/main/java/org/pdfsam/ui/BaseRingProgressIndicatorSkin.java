@@ -0,0 +1,204 @@
+/* 
+ * Copyright (c) 2014, Andrea Vacondio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package org.pdfsam.ui;
+
+import javafx.animation.Animation;
+import javafx.animation.Interpolator;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.control.Skin;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Arc;
+import javafx.scene.shape.Circle;
+import javafx.util.Duration;
+
+/**
+ * Base skin for the ring progress indicators where concentric arcs grow by the progress value of their ring up to 100% where the arc
+ * becomes a ring. All the rings share the same label, geometry and indeterminate animation.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+abstract class BaseRingProgressIndicatorSkin<T extends BaseRingProgressIndicator> implements Skin<T> {
+
+    private final T indicator;
+    private final ReadOnlyIntegerProperty[] rings;
+    private final Label percentLabel = new Label();
+    private final Circle innerCircle = new Circle();
+    private final Circle outerCircle = new Circle();
+    private final StackPane container = new StackPane();
+    private final Arc[] fillerArcs;
+    private final DoubleProperty rotation = new SimpleDoubleProperty(0);
+    private final Timeline transition = new Timeline();
+
+    /**
+     * @param indicator
+     * @param styleClassPrefix
+     *            prefix for the style classes of the skin nodes (Ex. ringindicator for ringindicator-filler)
+     * @param rings
+     *            progress of the rings starting from the outer one, the first being the indicator progress
+     */
+    BaseRingProgressIndicatorSkin(final T indicator, String styleClassPrefix, ReadOnlyIntegerProperty... rings) {
+        this.indicator = indicator;
+        this.rings = rings;
+        this.fillerArcs = new Arc[rings.length];
+        initContainer(indicator);
+        initFillerArcs(styleClassPrefix);
+        container.widthProperty().addListener((o, oldVal, newVal) -> {
+            for (Arc arc : fillerArcs) {
+                arc.setCenterX(newVal.intValue() / 2);
+            }
+        });
+        container.heightProperty().addListener((o, oldVal, newVal) -> {
+            for (Arc arc : fillerArcs) {
+                arc.setCenterY(newVal.intValue() / 2);
+            }
+        });
+        innerCircle.getStyleClass().add(styleClassPrefix + "-inner-circle");
+        outerCircle.getStyleClass().add(styleClassPrefix + "-outer-circle-secondary");
+        updateRadii();
+
+        this.indicator.indeterminateProperty().addListener((o, oldVal, newVal) -> {
+            initIndeterminate(newVal);
+        });
+        this.indicator.progressProperty().addListener((o, oldVal, newVal) -> {
+            setProgressLabel(newVal.intValue());
+        });
+        for (int i = 0; i < fillerArcs.length; i++) {
+            final Arc arc = fillerArcs[i];
+            rings[i].addListener((o, oldVal, newVal) -> {
+                if (newVal.intValue() >= 0 && !this.indicator.isIndeterminate()) {
+                    arc.setLength(newVal.intValue() * -3.6);
+                }
+            });
+        }
+        this.indicator.ringWidthProperty().addListener((o, oldVal, newVal) -> {
+            updateRadii();
+        });
+        innerCircle.strokeWidthProperty().addListener((e) -> {
+            updateRadii();
+        });
+        innerCircle.radiusProperty().addListener((e) -> {
+            updateRadii();
+        });
+        initTransition();
+        initIndeterminate(indicator.isIndeterminate());
+        initLabel(indicator.getProgress());
+        indicator.visibleProperty().addListener((o, oldVal, newVal) -> {
+            if (newVal && this.indicator.isIndeterminate()) {
+                transition.play();
+            } else {
+                transition.pause();
+            }
+        });
+        container.getChildren().addAll(fillerArcs);
+        container.getChildren().addAll(outerCircle, innerCircle, percentLabel);
+    }
+
+    private void setProgressLabel(int value) {
+        if (value >= 0) {
+            percentLabel.setText(String.format("%d%%", value));
+        }
+    }
+
+    private void initTransition() {
+        transition.setAutoReverse(false);
+        transition.setCycleCount(Animation.INDEFINITE);
+        transition.setDelay(Duration.ZERO);
+        transition.getKeyFrames().addAll(new KeyFrame(Duration.ZERO, new KeyValue(rotation, 0, Interpolator.LINEAR)),
+                new KeyFrame(Duration.millis(2000), new KeyValue(rotation, 360, Interpolator.LINEAR)));
+    }
+
+    private void initFillerArcs(String styleClassPrefix) {
+        for (int i = 0; i < fillerArcs.length; i++) {
+            Arc arc = new Arc();
+            arc.setManaged(false);
+            arc.getStyleClass().addAll(styleClassPrefix + "-filler", styleClassPrefix + "-filler-" + i);
+            arc.setStartAngle(90);
+            arc.setLength(Math.max(0, rings[i].get()) * -3.6);
+            arc.rotateProperty().bind(rotation);
+            fillerArcs[i] = arc;
+        }
+    }
+
+    private void initContainer(final T indicator) {
+        container.getStylesheets().addAll(indicator.getStylesheets());
+        container.getStyleClass().addAll("circleindicator-container");
+        container.setMaxHeight(Region.USE_PREF_SIZE);
+        container.setMaxWidth(Region.USE_PREF_SIZE);
+    }
+
+    private void updateRadii() {
+        double ringWidth = indicator.getRingWidth();
+        double innerCircleHalfStrokeWidth = innerCircle.getStrokeWidth() / 2;
+        double innerCircleRadius = indicator.getInnerCircleRadius();
+        outerCircle.setRadius(innerCircleRadius + innerCircleHalfStrokeWidth + (ringWidth * fillerArcs.length));
+        double innermostArcRadius = innerCircleRadius + innerCircleHalfStrokeWidth - 1 + (ringWidth / 2);
+        for (int i = 0; i < fillerArcs.length; i++) {
+            double radius = innermostArcRadius + (ringWidth * (fillerArcs.length - 1 - i));
+            fillerArcs[i].setRadiusY(radius);
+            fillerArcs[i].setRadiusX(radius);
+            fillerArcs[i].setStrokeWidth(ringWidth);
+        }
+        innerCircle.setRadius(innerCircleRadius);
+    }
+
+    private void initLabel(int value) {
+        setProgressLabel(value);
+        percentLabel.getStyleClass().add("circleindicator-label");
+    }
+
+    private void initIndeterminate(boolean newVal) {
+        percentLabel.setVisible(!newVal);
+        if (newVal) {
+            for (Arc arc : fillerArcs) {
+                arc.setLength(360);
+            }
+            if (indicator.isVisible()) {
+                transition.play();
+            }
+        } else {
+            transition.stop();
+            rotation.set(0);
+            for (int i = 0; i < fillerArcs.length; i++) {
+                fillerArcs[i].setLength(Math.max(0, rings[i].get()) * -3.6);
+            }
+        }
+    }
+
+    @Override
+    public T getSkinnable() {
+        return indicator;
+    }
+
+    @Override
+    public Node getNode() {
+        return container;
+    }
+
+    @Override
+    public void dispose() {
+        transition.stop();
+    }
+
+}
@@ -0,0 +1,114 @@
+/* 
+ * Copyright (c) 2014, Andrea Vacondio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package org.pdfsam.ui;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerWrapper;
+import javafx.scene.control.Skin;
+
+/**
+ * Progress indicator showing concentric filling arcs, one for each ring. The outer ring (index 0) is the main progress of the control, the
+ * inner rings can be used to show nested progress (Ex. overall progress and current file progress).
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class MultiRingProgressIndicator extends BaseRingProgressIndicator {
+    private final ReadOnlyIntegerWrapper[] innerRings;
+
+    public MultiRingProgressIndicator() {
+        this(2);
+    }
+
+    /**
+     * @param rings
+     *            number of concentric rings, it must be at least 1
+     */
+    public MultiRingProgressIndicator(int rings) {
+        super(14);
+        if (rings < 1) {
+            throw new IllegalArgumentException("At least one ring is required");
+        }
+        this.innerRings = new ReadOnlyIntegerWrapper[rings - 1];
+        for (int i = 0; i < innerRings.length; i++) {
+            innerRings[i] = new ReadOnlyIntegerWrapper(0);
+        }
+        this.getStylesheets().add(MultiRingProgressIndicator.class.getResource("multiringprogress.css").toExternalForm());
+        this.getStyleClass().add("multiringindicator");
+    }
+
+    @Override
+    protected Skin<?> createDefaultSkin() {
+        return new MultiRingProgressIndicatorSkin(this);
+    }
+
+    /**
+     * @return the number of concentric rings
+     */
+    public int getRingsCount() {
+        return innerRings.length + 1;
+    }
+
+    /**
+     * Set the progress values of the rings, starting from the outer one. The first value is set as progress of the indicator and it's the
+     * only one that can drive the indeterminate state (a negative value means indeterminate progress). Values for the inner rings cannot be
+     * negative and are bound to 100. Rings with no corresponding value are left untouched and values exceeding the number of rings are
+     * ignored.
+     * 
+     * @param values
+     * @throws IllegalArgumentException
+     *             if a value for an inner ring is negative
+     * @see ProgressCircleIndicator#setProgress(int)
+     */
+    public void setRingsProgress(int... values) {
+        for (int i = 1; i < values.length && i <= innerRings.length; i++) {
+            if (values[i] < 0) {
+                throw new IllegalArgumentException(String.format("Invalid negative progress %d for inner ring %d", values[i], i));
+            }
+        }
+        for (int i = 1; i < values.length && i <= innerRings.length; i++) {
+            innerRings[i - 1].set(Math.min(100, values[i]));
+        }
+        if (values.length > 0) {
+            setProgress(values[0]);
+        }
+    }
+
+    /**
+     * @param ring
+     *            index of the ring, 0 being the outer one
+     * @return the progress value of the given ring, the outer ring returns a negative value if the progress is indeterminate
+     */
+    public int getRingProgress(int ring) {
+        return ringProgressProperty(ring).get();
+    }
+
+    /**
+     * @param ring
+     *            index of the ring, 0 being the outer one
+     * @return the progress property of the given ring
+     */
+    public ReadOnlyIntegerProperty ringProgressProperty(int ring) {
+        if (ring < 0 || ring >= getRingsCount()) {
+            throw new IllegalArgumentException(String.format("Invalid ring index %d, the indicator has %d rings", ring,
+                    getRingsCount()));
+        }
+        if (ring == 0) {
+            return progressProperty();
+        }
+        return innerRings[ring - 1].getReadOnlyProperty();
+    }
+}
@@ -0,0 +1,40 @@
+/* 
+ * Copyright (c) 2014, Andrea Vacondio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package org.pdfsam.ui;
+
+import javafx.beans.property.ReadOnlyIntegerProperty;
+
+/**
+ * Skin of the multi ring progress indicator where concentric arcs grow by the progress value of their ring up to 100% where the arc
+ * becomes a ring.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class MultiRingProgressIndicatorSkin extends BaseRingProgressIndicatorSkin<MultiRingProgressIndicator> {
+
+    public MultiRingProgressIndicatorSkin(final MultiRingProgressIndicator indicator) {
+        super(indicator, "multiringindicator", rings(indicator));
+    }
+
+    private static ReadOnlyIntegerProperty[] rings(MultiRingProgressIndicator indicator) {
+        ReadOnlyIntegerProperty[] rings = new ReadOnlyIntegerProperty[indicator.getRingsCount()];
+        for (int i = 0; i < rings.length; i++) {
+            rings[i] = indicator.ringProgressProperty(i);
+        }
+        return rings;
+    }
+}
@@ -17,7 +17,10 @@ package org.pdfsam.ui;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.ReadOnlyBooleanProperty;
@@ -25,6 +28,7 @@ import javafx.beans.property.ReadOnlyBooleanWrapper;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyIntegerWrapper;
 import javafx.css.CssMetaData;
+import javafx.css.PseudoClass;
 import javafx.css.Styleable;
 import javafx.css.StyleableDoubleProperty;
 import javafx.css.StyleableProperty;
@@ -40,9 +44,24 @@ import com.sun.javafx.css.converters.SizeConverter;
  */
 abstract class ProgressCircleIndicator extends Control {
     private static final int INDETERMINATE_PROGRESS = -1;
+    private static final PseudoClass PSEUDO_CLASS_INDETERMINATE = PseudoClass.getPseudoClass("indeterminate");
+    private static final PseudoClass PSEUDO_CLASS_COMPLETE = PseudoClass.getPseudoClass("complete");
+    private static final PseudoClass PSEUDO_CLASS_ERROR = PseudoClass.getPseudoClass("error");
 
-    private ReadOnlyIntegerWrapper progress = new ReadOnlyIntegerWrapper(0);
-    private ReadOnlyBooleanWrapper indeterminate = new ReadOnlyBooleanWrapper(false);
+    private final Map<PseudoClass, Integer> thresholds = new LinkedHashMap<>();
+
+    private ReadOnlyIntegerWrapper progress = new ReadOnlyIntegerWrapper(0) {
+        @Override
+        protected void invalidated() {
+            updatePseudoClasses();
+        }
+    };
+    private ReadOnlyBooleanWrapper indeterminate = new ReadOnlyBooleanWrapper(false) {
+        @Override
+        protected void invalidated() {
+            updatePseudoClasses();
+        }
+    };
 
     public ProgressCircleIndicator() {
         this.getStylesheets().add(ProgressCircleIndicator.class.getResource("circleprogress.css").toExternalForm());
@@ -53,12 +72,14 @@ abstract class ProgressCircleIndicator extends Control {
     }
 
     /**
-     * Set the value for the progress, it cannot be more then 100 (meaning 100%). A negative value means indeterminate progress.
+     * Set the value for the progress, it cannot be more then 100 (meaning 100%). A negative value means indeterminate progress. It clears the
+     * error state, if any.
      * 
      * @param progressValue
      * @see ProgressCircleIndicator#makeIndeterminate()
      */
     public void setProgress(int progressValue) {
+        pseudoClassStateChanged(PSEUDO_CLASS_ERROR, false);
         progress.set(defaultToHundred(progressValue));
         indeterminate.set(progressValue < 0);
     }
@@ -79,6 +100,68 @@ abstract class ProgressCircleIndicator extends Control {
         return indeterminate.getReadOnlyProperty();
     }
 
+    /**
+     * Activates the error pseudo class, the state is cleared by the next {@link ProgressCircleIndicator#setProgress(int)}
+     */
+    void markError() {
+        pseudoClassStateChanged(PSEUDO_CLASS_ERROR, true);
+    }
+
+    /**
+     * @return a new sink that can be used to set the progress of this indicator from any thread, conflating values produced faster than
+     *         they can be rendered.
+     */
+    public ProgressSink progressSink() {
+        return new ProgressSink(this);
+    }
+
+    /**
+     * @return a new adapter for reactive publishers requesting progress values only as fast as this indicator renders them.
+     */
+    public ProgressSubscriber progressSubscriber() {
+        return new ProgressSubscriber(progressSink());
+    }
+
+    /**
+     * Adds a pseudo class that is active on this control when the progress value is greater or equal to the given threshold and the
+     * progress is not indeterminate. It can be used to style states (Ex. warning, error) in the stylesheet without additional listeners.
+     * 
+     * @param pseudoClass
+     *            name of the pseudo class (Ex. "warning" to be used as .ringindicator:warning)
+     * @param threshold
+     *            the progress value from which the pseudo class is active
+     */
+    public void addThresholdPseudoClass(String pseudoClass, int threshold) {
+        PseudoClass state = PseudoClass.getPseudoClass(pseudoClass);
+        if (PSEUDO_CLASS_INDETERMINATE.equals(state) || PSEUDO_CLASS_COMPLETE.equals(state) || PSEUDO_CLASS_ERROR.equals(state)) {
+            throw new IllegalArgumentException(String.format("Pseudo class '%s' is reserved", pseudoClass));
+        }
+        thresholds.put(state, threshold);
+        updatePseudoClasses();
+    }
+
+    /**
+     * Removes a pseudo class previously added with {@link ProgressCircleIndicator#addThresholdPseudoClass(String, int)}
+     * 
+     * @param pseudoClass
+     */
+    public void removeThresholdPseudoClass(String pseudoClass) {
+        PseudoClass state = PseudoClass.getPseudoClass(pseudoClass);
+        if (thresholds.remove(state) != null) {
+            pseudoClassStateChanged(state, false);
+        }
+    }
+
+    private void updatePseudoClasses() {
+        boolean isIndeterminate = indeterminate.get();
+        int value = progress.get();
+        pseudoClassStateChanged(PSEUDO_CLASS_INDETERMINATE, isIndeterminate);
+        pseudoClassStateChanged(PSEUDO_CLASS_COMPLETE, !isIndeterminate && value >= 100);
+        for (Entry<PseudoClass, Integer> threshold : thresholds.entrySet()) {
+            pseudoClassStateChanged(threshold.getKey(), !isIndeterminate && value >= threshold.getValue());
+        }
+    }
+
     private int defaultToHundred(int value) {
         if (value > 100) {
             return 100;
@@ -0,0 +1,130 @@
+/* 
+ * Copyright (c) 2014, Andrea Vacondio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package org.pdfsam.ui;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+/**
+ * Thread safe sink for progress values produced outside the JavaFX Application Thread. Values are conflated and applied to the indicator
+ * at most once per rendered frame, only the latest value is shown and intermediate ones are dropped. An optional callback is invoked on
+ * the FX thread every time a new value has been applied to the indicator, it can be used by pull based producers to request the next
+ * value only as fast as the indicator renders it. The sink is notified of rendered frames only while there are values to deliver.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class ProgressSink implements IntConsumer {
+    private final ProgressCircleIndicator indicator;
+    private final AtomicReference<Integer> pending = new AtomicReference<>();
+    private final AtomicBoolean active = new AtomicBoolean(false);
+    private volatile Runnable onDelivered;
+    private volatile Consumer<Throwable> onError;
+    private volatile boolean closed = false;
+
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            Integer value = pending.getAndSet(null);
+            if (value != null) {
+                indicator.setProgress(value);
+                Runnable callback = onDelivered;
+                if (callback != null) {
+                    callback.run();
+                }
+            } else {
+                stop();
+                active.set(false);
+                // a value may have been stored while we were deactivating
+                if (pending.get() != null && active.compareAndSet(false, true)) {
+                    start();
+                }
+            }
+        }
+    };
+
+    ProgressSink(ProgressCircleIndicator indicator) {
+        this.indicator = indicator;
+    }
+
+    /**
+     * Sets the progress value to be shown on the next frame, it can be called from any thread. Values set after the sink has been closed
+     * are ignored.
+     * 
+     * @see ProgressCircleIndicator#setProgress(int)
+     */
+    @Override
+    public void accept(int value) {
+        if (!closed) {
+            pending.set(value);
+            if (active.compareAndSet(false, true)) {
+                try {
+                    Platform.runLater(timer::start);
+                } catch (RuntimeException e) {
+                    active.set(false);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes the sink, it can be called from any thread. The latest pending value, if any, is still delivered.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    /**
+     * Closes the sink discarding any pending value and puts the indicator in the error state (:error pseudo class), it can be called from
+     * any thread. The error callback, if any, is invoked on the JavaFX Application Thread.
+     * 
+     * @param throwable
+     */
+    public void fail(Throwable throwable) {
+        closed = true;
+        pending.set(null);
+        Platform.runLater(() -> {
+            indicator.markError();
+            Consumer<Throwable> callback = onError;
+            if (callback != null) {
+                callback.accept(throwable);
+            }
+        });
+    }
+
+    /**
+     * @param onDelivered
+     *            callback invoked on the JavaFX Application Thread every time a new progress value has been set on the indicator
+     */
+    public void setOnDelivered(Runnable onDelivered) {
+        this.onDelivered = onDelivered;
+    }
+
+    /**
+     * @param onError
+     *            callback invoked on the JavaFX Application Thread when the sink fails
+     * @see ProgressSink#fail(Throwable)
+     */
+    public void setOnError(Consumer<Throwable> onError) {
+        this.onError = onError;
+    }
+}
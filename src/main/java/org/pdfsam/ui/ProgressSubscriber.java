@@ -0,0 +1,93 @@
+/* 
+ * Copyright (c) 2014, Andrea Vacondio
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */ 
+package org.pdfsam.ui;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongConsumer;
+
+/**
+ * Adapter for reactive progress publishers following the subscribe/request protocol, a {@code java.util.concurrent.Flow.Subscriber} can
+ * delegate to it passing {@code subscription::request} and {@code subscription::cancel} to {@link #onSubscribe(LongConsumer, Runnable)}. A
+ * single item is requested at a time and the next one is requested only once the previous one has been rendered by the indicator.
+ * 
+ * @author Andrea Vacondio
+ *
+ */
+public class ProgressSubscriber {
+    private final ProgressSink sink;
+    private final AtomicReference<Runnable> cancel = new AtomicReference<>();
+
+    ProgressSubscriber(ProgressSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Starts requesting progress values. Only one subscription is accepted, any further subscription is cancelled.
+     * 
+     * @param request
+     *            function requesting the given number of items to the publisher (Ex. {@code subscription::request})
+     * @param cancel
+     *            function cancelling the subscription (Ex. {@code subscription::cancel})
+     */
+    public void onSubscribe(LongConsumer request, Runnable cancel) {
+        if (!this.cancel.compareAndSet(null, cancel)) {
+            cancel.run();
+            return;
+        }
+        sink.setOnDelivered(() -> request.accept(1));
+        request.accept(1);
+    }
+
+    public void onNext(int value) {
+        sink.accept(value);
+    }
+
+    /**
+     * Stops receiving progress values and puts the indicator in the error state (:error pseudo class).
+     * 
+     * @see #setOnError(Consumer)
+     */
+    public void onError(Throwable throwable) {
+        sink.setOnDelivered(null);
+        sink.fail(throwable);
+    }
+
+    public void onComplete() {
+        sink.setOnDelivered(null);
+        sink.close();
+    }
+
+    /**
+     * Cancels the subscription, if any, and stops receiving progress values. The subscriber cannot be subscribed again.
+     */
+    public void cancel() {
+        sink.setOnDelivered(null);
+        sink.close();
+        if (!this.cancel.compareAndSet(null, () -> {
+        })) {
+            this.cancel.get().run();
+        }
+    }
+
+    /**
+     * @param onError
+     *            callback invoked on the JavaFX Application Thread with the error notified by the publisher
+     */
+    public void setOnError(Consumer<Throwable> onError) {
+        sink.setOnError(onError);
+    }
+}